@@ -45,6 +45,40 @@ public class TestModifiableTextLayout {
     }
   }
 
+  @Test
+  public void testSetTextWithCommonPrefixAndSuffix() {
+    final ModifiableTextLayout text = new ModifiableTextLayout(display);
+    try {
+      text.setText("0123\r\n5678\r\nab");
+
+      // 1. change in the middle of a line
+      text.setText("0123\r\n5xx8\r\nab");
+      assertEquals("0123\r\n5xx8\r\nab", text.getText());
+      assertEquals("5xx8\r\n", text.getLine(1));
+      assertBounds(0, 0, 4 * charSize.getWidth(), 3 * charSize.getHeight(), text.getBounds());
+
+      // 2. longer line in the middle
+      text.setText("0123\r\n5xxxxxx8\r\nab");
+      assertEquals("0123\r\n5xxxxxx8\r\nab", text.getText());
+      assertBounds(0, 0, 8 * charSize.getWidth(), 3 * charSize.getHeight(), text.getBounds());
+
+      // 3. delete the middle line
+      text.setText("0123\r\nab");
+      assertEquals("0123\r\nab", text.getText());
+      assertEquals("0123\r\n", text.getLine(0));
+      assertEquals("ab", text.getLine(1));
+      assertBounds(0, 0, 4 * charSize.getWidth(), 2 * charSize.getHeight(), text.getBounds());
+
+      // 4. common prefix and suffix overlap
+      text.setText("aaa");
+      text.setText("aaaa");
+      assertEquals("aaaa", text.getText());
+      assertBounds(0, 0, 4 * charSize.getWidth(), 1 * charSize.getHeight(), text.getBounds());
+    } finally {
+      text.dispose();
+    }
+  }
+
   @Test
   public void testClear() {
     final ModifiableTextLayout text = new ModifiableTextLayout(display);
@@ -73,6 +73,42 @@ public class TestSegmentedText {
     }
   }
 
+  @Test
+  public void testGetTextWithNonLatin1Characters() throws Throwable {
+    final SegmentedText segmentedText = new SegmentedText(shell);
+    try {
+      // Latin-1 only
+      final Segment segment0 = segmentedText.addSegment();
+      segment0.appendln("abc").append("\u00e4\u00f6\u00fc");
+      assertEquals("abc\r\n\u00e4\u00f6\u00fc", segmentedText.getText());
+
+      // character outside of Latin-1 appended to a line that already holds Latin-1 text
+      segment0.append("\u20ac");
+      assertEquals("abc\r\n\u00e4\u00f6\u00fc\u20ac", segmentedText.getText());
+
+      // Latin-1 again after the wider character
+      segment0.append("x");
+      assertEquals("abc\r\n\u00e4\u00f6\u00fc\u20acx", segmentedText.getText());
+
+      final Segment segment1 = segmentedText.addSegment();
+      segment1.appendln("def").append("ghi");
+      assertEquals("abc\r\n\u00e4\u00f6\u00fc\u20acx\r\ndef\r\nghi", segmentedText.getText());
+
+      assertEquals(0, getOffset(segmentedText, segment0));
+      assertEquals(12, getOffset(segmentedText, segment1));
+      assertEquals(2, getLineIndex(segmentedText, segment1));
+      assertEquals(segment0, findSegmentByOffset(segmentedText, 8));
+      assertEquals(segment0, findSegmentByOffset(segmentedText, 9));
+      assertEquals(segment1, findSegmentByOffset(segmentedText, 12));
+      assertEquals(9, getOffsetRelativeToSegmentedText(segmentedText, segment0, 9));
+      assertEquals(1, getOffsetRelativeToSegment(segmentedText, segment1, 13));
+      assertEquals(17, getOffsetRelativeToSegmentedText(segmentedText, segment1, 5));
+      assertEquals(1, getLineIndexRelativeToSegment(segmentedText, segment1, 3));
+    } finally {
+      segmentedText.dispose();
+    }
+  }
+
   @Test
   public void testAddGetDeleteSegments() {
     final SegmentedText segmentedText = new SegmentedText(shell);
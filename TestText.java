@@ -50,6 +50,51 @@ public class TestText {
     }
   }
 
+  @Test
+  public void testSetTextWithCommonPrefixAndSuffix() {
+    final ModifiableText text = new Text(shell);
+    try {
+      text.setText("my\r\nTest\r\nText");
+
+      // 1. change in the middle of a line
+      text.setText("my\r\nTast\r\nText");
+      assertEquals("my\r\nTast\r\nText", text.getText());
+      assertEquals(3, text.getLineCount());
+
+      // 2. insert a line in the middle
+      text.setText("my\r\nTast\r\nnew line\r\nText");
+      assertEquals("my\r\nTast\r\nnew line\r\nText", text.getText());
+      assertEquals(4, text.getLineCount());
+
+      // 3. delete lines in the middle
+      text.setText("my\r\nText");
+      assertEquals("my\r\nText", text.getText());
+      assertEquals(2, text.getLineCount());
+
+      // 4. split a line break -> prefix and suffix must not cut "\r\n"
+      text.setText("my\rText");
+      assertEquals("my\rText", text.getText());
+      text.setText("my\r\nText");
+      assertEquals("my\r\nText", text.getText());
+      assertEquals(2, text.getLineCount());
+
+      // 5. common prefix and suffix overlap
+      text.setText("aaa");
+      text.setText("aaaa");
+      assertEquals("aaaa", text.getText());
+      text.setText("aa");
+      assertEquals("aa", text.getText());
+
+      // 6. nothing in common
+      text.setText("0123456789");
+      assertEquals("0123456789", text.getText());
+      assertEquals(1, text.getLineCount());
+      assertEquals(10 * charSize.getWidth(), text.getBounds().width);
+    } finally {
+      text.dispose();
+    }
+  }
+
   @Test
   public void testClear() {
     final ModifiableText text = new Text(shell);